@@ -24,6 +24,15 @@ public class linksShortener {
     private String DATA_FILE;
     private long MAX_EXPIRY_TIME_MS;
     private int DEFAULT_LIMIT_REDIRECT;
+    private int BLOOM_EXPECTED_LINKS;
+    private double BLOOM_FALSE_POSITIVE_RATE;
+
+    // Ограничения фильтра Блума (защита от чрезмерного расхода памяти)
+    private static final int BLOOM_MAX_LINKS = 10_000_000;
+    private static final int BLOOM_MAX_COUNTERS = 1 << 27;
+
+    // Фильтр Блума по всем действующим коротким ссылкам (быстрый отсев несуществующих)
+    private CountingBloomFilter shortUrlFilter;
 
     private String currentUserUuid;
 
@@ -87,6 +96,86 @@ public class linksShortener {
         }
     }
 
+    /**
+     * Считающий фильтр Блума для коротких ссылок.
+     * Отвечает "точно нет" или "возможно есть"; счётчики позволяют удалять элементы.
+     */
+    class CountingBloomFilter {
+        private final byte[] counters;
+        private final int hashCount;
+        private final int capacity;
+        private int size;
+
+        public CountingBloomFilter(int capacity, double falsePositiveRate) {
+            this.capacity = Math.max(capacity, 1);
+
+            // Оптимальные размер массива и число хеш-функций для заданной вероятности ложных срабатываний
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.counters = new byte[(int) Math.min(Math.max(bits, 64), BLOOM_MAX_COUNTERS)];
+            this.hashCount = Math.max(1, (int) Math.round((double) counters.length / this.capacity * ln2));
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void add(String key) {
+            int h1 = key.hashCode();
+            int h2 = secondHash(key);
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(h1, h2, i);
+                // Насыщение счётчика: после 255 значение больше не меняется
+                if ((counters[index] & 0xFF) < 0xFF) {
+                    counters[index]++;
+                }
+            }
+            size++;
+        }
+
+        public void remove(String key) {
+            int h1 = key.hashCode();
+            int h2 = secondHash(key);
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(h1, h2, i);
+                int value = counters[index] & 0xFF;
+                if (value > 0 && value < 0xFF) {
+                    counters[index]--;
+                }
+            }
+            size = Math.max(0, size - 1);
+        }
+
+        public boolean mightContain(String key) {
+            int h1 = key.hashCode();
+            int h2 = secondHash(key);
+            for (int i = 0; i < hashCount; i++) {
+                if (counters[index(h1, h2, i)] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(int h1, int h2, int i) {
+            return Math.floorMod(h1 + i * h2, counters.length);
+        }
+
+        private int secondHash(String key) {
+            // FNV-1a, нечётный результат, чтобы шаг не вырождался
+            int hash = 0x811C9DC5;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x01000193;
+            }
+            return hash | 1;
+        }
+    }
+
     /**
      * Позволяет получить данные текущего пользователя.
      */
@@ -108,6 +197,21 @@ public class linksShortener {
             DATA_FILE = config.getProperty("data_file", "user_data.json");
             MAX_EXPIRY_TIME_MS = Long.parseLong(config.getProperty("max_expiry_time_ms", String.valueOf(TimeUnit.DAYS.toMillis(1))));
             DEFAULT_LIMIT_REDIRECT = Integer.parseInt(config.getProperty("default_limit_redirect", "5"));
+            BLOOM_EXPECTED_LINKS = Integer.parseInt(config.getProperty("bloom_expected_links", "10000"));
+            BLOOM_FALSE_POSITIVE_RATE = Double.parseDouble(config.getProperty("bloom_false_positive_rate", "0.01"));
+
+            // Проверка корректности параметров фильтра
+            if (BLOOM_EXPECTED_LINKS <= 0) {
+                System.err.println("Некорректное значение bloom_expected_links: " + BLOOM_EXPECTED_LINKS + ". Используется значение по умолчанию – 10000.");
+                BLOOM_EXPECTED_LINKS = 10000;
+            } else if (BLOOM_EXPECTED_LINKS > BLOOM_MAX_LINKS) {
+                System.err.println("Значение bloom_expected_links превышает максимальное – " + BLOOM_MAX_LINKS + " (установлено автоматически).");
+                BLOOM_EXPECTED_LINKS = BLOOM_MAX_LINKS;
+            }
+            if (!(BLOOM_FALSE_POSITIVE_RATE > 0 && BLOOM_FALSE_POSITIVE_RATE < 1)) {
+                System.err.println("Некорректное значение bloom_false_positive_rate: " + BLOOM_FALSE_POSITIVE_RATE + ". Используется значение по умолчанию – 0.01.");
+                BLOOM_FALSE_POSITIVE_RATE = 0.01;
+            }
 
             System.out.println("==================================================");
             System.out.println("Конфигурация загружена из config.properties:");
@@ -115,6 +219,8 @@ public class linksShortener {
             System.out.println("Файл с данными - " + DATA_FILE);
             System.out.println("Максимальное время действия ссылки - " + formatRemainingTime(System.currentTimeMillis() + MAX_EXPIRY_TIME_MS));
             System.out.println("Лимит переходов по умолчанию - " + DEFAULT_LIMIT_REDIRECT);
+            System.out.println("Ожидаемое число ссылок (фильтр Блума) - " + BLOOM_EXPECTED_LINKS);
+            System.out.println("Вероятность ложных срабатываний фильтра - " + BLOOM_FALSE_POSITIVE_RATE);
             System.out.println("==================================================");
         } catch (IOException e) {
             System.err.println("Не удалось загрузить конфигурацию. Используются значения по умолчанию.");
@@ -122,6 +228,8 @@ public class linksShortener {
             DATA_FILE = "user_data.json";
             MAX_EXPIRY_TIME_MS = TimeUnit.DAYS.toMillis(1);
             DEFAULT_LIMIT_REDIRECT = 5;
+            BLOOM_EXPECTED_LINKS = 10000;
+            BLOOM_FALSE_POSITIVE_RATE = 0.01;
         }
     }
 
@@ -141,6 +249,34 @@ public class linksShortener {
         } catch (Exception e) {
             System.err.println("Некорректный формат данных: " + e.getMessage());
         }
+
+        rebuildShortUrlFilter(BLOOM_EXPECTED_LINKS);
+    }
+
+    /**
+     * Перестраивает фильтр Блума по всем ссылкам, загруженным в память.
+     */
+    private void rebuildShortUrlFilter(int expectedLinks) {
+        int totalLinks = users.values().stream()
+                .mapToInt(user -> user.getLinks().size())
+                .sum();
+
+        int capacity = (int) Math.min(Math.max(expectedLinks, totalLinks * 2L), BLOOM_MAX_LINKS);
+        shortUrlFilter = new CountingBloomFilter(capacity, BLOOM_FALSE_POSITIVE_RATE);
+        users.values().forEach(user -> user.getLinks().keySet().forEach(shortUrlFilter::add));
+    }
+
+    /**
+     * Добавляет короткую ссылку в фильтр Блума.
+     * При превышении ожидаемого числа ссылок фильтр перестраивается с удвоенной ёмкостью.
+     * Вызывается до добавления ссылки в данные пользователя, чтобы перестроение не учло её дважды.
+     */
+    private void registerShortUrl(String shortUrl) {
+        int capacity = shortUrlFilter.getCapacity();
+        if (shortUrlFilter.getSize() >= capacity && capacity < BLOOM_MAX_LINKS) {
+            rebuildShortUrlFilter((int) Math.min(capacity * 2L, BLOOM_MAX_LINKS));
+        }
+        shortUrlFilter.add(shortUrl);
     }
 
     /**
@@ -200,9 +336,11 @@ public class linksShortener {
                 if (link.getExpiryTime() <= currentTime) {
                     System.out.println("Срок действия ссылки " + entry.getKey() + " (" + link.getLongUrl() + ") истёк. Пользователь " + username);
                     iterator.remove();
+                    shortUrlFilter.remove(entry.getKey());
                 } else if (link.isLimitReached()) {
                     System.out.println("Лимит переходов по ссылке " + entry.getKey() + " (" + link.getLongUrl() + ") исчерпан. Пользователь " + username);
                     iterator.remove();
+                    shortUrlFilter.remove(entry.getKey());
                 }
             }
         });
@@ -340,6 +478,7 @@ public class linksShortener {
         String shortUrl = BASE_URL + uniqueId;
 
         UserData currentUser = getCurrentUser();
+        registerShortUrl(shortUrl);
         currentUser.getLinks().put(shortUrl, new LinkData(longUrl, System.currentTimeMillis() + durationMs, visitLimit));
 
         saveData();
@@ -361,6 +500,12 @@ public class linksShortener {
                 return;
             }
 
+            // Быстрый отказ: фильтр Блума гарантирует, что такой ссылки нет
+            if (!shortUrlFilter.mightContain(shortUrlInput)) {
+                System.out.println("Короткая ссылка не найдена. Попробуйте снова.");
+                continue;
+            }
+
             // Локальная копия переменной для использования в лямбда-выражении
             final String shortUrl = shortUrlInput;
 
@@ -594,6 +739,7 @@ public class linksShortener {
             }
 
             if (currentUser.getLinks().remove(shortUrl) != null) {
+                shortUrlFilter.remove(shortUrl);
                 System.out.println("Ссылка удалена.");
                 saveData();
                 return;